@@ -24,6 +24,20 @@ public class Messages extends NLS {
     public static String PageName;
 
     public static String PageTitle;
+
+    public static String PreviewArchiveColumn;
+
+    public static String PreviewJob;
+
+    public static String PreviewLabel;
+
+    public static String PreviewNone;
+
+    public static String PreviewSizeColumn;
+
+    public static String PreviewSourceColumn;
+
+    public static String PreviewSummary;
     
         
 
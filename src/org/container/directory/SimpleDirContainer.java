@@ -139,18 +139,14 @@ public class SimpleDirContainer implements IClasspathContainer {
     public IClasspathEntry[] getClasspathEntries() {
         ArrayList<IClasspathEntry> entryList = new ArrayList<IClasspathEntry>();
         // fetch the names of all files that match our filter
-        File[] libs = _dir.listFiles(_dirFilter);
+        File[] libs = getArchives();
 
         try {
             for (File lib : libs) {
-                // strip off the file extension
-                String ext = lib.getName().split("[.]")[1];
-
-                // now see if this archive has an associated src jar
-                File srcArc = new File(lib.getAbsolutePath().replace("." + ext, "-src." + ext));
+                File srcArc = getSourceArchive(lib);
                 Path srcPath = null;
                 // if the source archive exists then get the path to attach it
-                if (srcArc.exists()) {
+                if (srcArc != null) {
                     srcPath = new Path(srcArc.getAbsolutePath());
                 }
                 // create a new CPE_LIBRARY type of cp entry with an attached
@@ -172,6 +168,42 @@ public class SimpleDirContainer implements IClasspathContainer {
         return (IClasspathEntry[]) entryList.toArray(entryArray);
     }
 
+    /**
+     * Returns the archives in the configured directory that conform to the
+     * configured set of file extensions. Source archives (ending in -src) are
+     * not included.
+     * 
+     * @return the matching archives, or an empty array if the configured
+     *         directory cannot be listed
+     */
+    public File[] getArchives() {
+        File[] libs = _dir.listFiles(_dirFilter);
+        if (libs == null) {
+            return new File[0];
+        }
+        return libs;
+    }
+
+    /**
+     * Looks for a source archive next to the given archive, i.e. a file with
+     * the same name ending with -src.
+     * 
+     * @param lib
+     *            an archive returned by {@link #getArchives()}
+     * @return the source archive, or null if there is none
+     */
+    public File getSourceArchive(File lib) {
+        // strip off the file extension
+        String ext = lib.getName().split("[.]")[1];
+
+        // now see if this archive has an associated src jar
+        File srcArc = new File(lib.getAbsolutePath().replace("." + ext, "-src." + ext));
+        if (srcArc.exists()) {
+            return srcArc;
+        }
+        return null;
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -1,7 +1,14 @@
 package org.container.directory;
 
+import java.io.File;
+import java.util.Arrays;
+
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
@@ -10,6 +17,8 @@ import org.eclipse.jdt.ui.wizards.IClasspathContainerPageExtension;
 import org.eclipse.jface.wizard.WizardPage;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.ModifyEvent;
+import org.eclipse.swt.events.ModifyListener;
 import org.eclipse.swt.events.SelectionAdapter;
 import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.layout.GridData;
@@ -18,12 +27,17 @@ import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Combo;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.DirectoryDialog;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.swt.widgets.TableItem;
 import org.eclipse.swt.widgets.Text;
 
 /**
  * This classpath container page colects the directory and the file extensions for a new 
- * or existing SimpleDirContainer.  
+ * or existing SimpleDirContainer.  It also previews the archives the container would 
+ * include, scanning the directory in a background job as the user types.
  * 
  * @author Aaron J Tarter
  */
@@ -31,12 +45,27 @@ public class SimpleDirContainerPage extends WizardPage
                implements IClasspathContainerPage, IClasspathContainerPageExtension {
 
     private final static String DEFAULT_EXTS = "jar,zip";
+    // milliseconds to wait after the last keystroke before scanning the directory
+    private final static long PREVIEW_DELAY = 300;
     
     private IJavaProject _proj;
     private Combo _dirCombo;
     private Button _dirBrowseButton;
     private Text _extText;
     private IPath _initPath = null;
+    private Table _previewTable;
+    private Label _previewSummary;
+    // the most recently scheduled preview, results from any other job are discarded
+    private PreviewJob _previewJob = null;
+    
+    /**
+     * Reschedules the preview whenever the directory or extensions change
+     */
+    private ModifyListener _previewListener = new ModifyListener() {
+        public void modifyText(ModifyEvent e) {
+            schedulePreview();
+        }
+    };
 
     /**
      * Default Constructor - sets title, page name, description
@@ -69,7 +98,11 @@ public class SimpleDirContainerPage extends WizardPage
         
         createExtGroup(composite);
         
+        createPreviewGroup(composite);
+        
         setControl(composite);    
+        
+        schedulePreview();
     }
     
     /**
@@ -88,6 +121,7 @@ public class SimpleDirContainerPage extends WizardPage
 
         _dirCombo = new Combo(dirSelectionGroup, SWT.SINGLE | SWT.BORDER);
         _dirCombo.setText( getInitDir() );                
+        _dirCombo.addModifyListener(_previewListener);
 
         _dirBrowseButton= new Button(dirSelectionGroup, SWT.PUSH);
         _dirBrowseButton.setText( Messages.Browse ); 
@@ -116,10 +150,101 @@ public class SimpleDirContainerPage extends WizardPage
         
         _extText = new Text(extSelectionGroup,SWT.BORDER);
         _extText.setText(getInitExts()+"                  ");
+        _extText.addModifyListener(_previewListener);
 
         setControl(extSelectionGroup);
     }
     
+    /**
+     * Creates the preview label, table of matched archives, and summary label
+     * 
+     * @param parent parent widget
+     */
+    private void createPreviewGroup(Composite parent) {
+        Composite previewGroup = new Composite(parent, SWT.NONE);
+        previewGroup.setLayout(new GridLayout());
+        previewGroup.setLayoutData(new GridData(GridData.FILL_BOTH));
+
+        new Label(previewGroup, SWT.NONE).setText(Messages.PreviewLabel);
+
+        _previewTable = new Table(previewGroup, SWT.BORDER | SWT.FULL_SELECTION);
+        _previewTable.setHeaderVisible(true);
+        GridData tableData = new GridData(GridData.FILL_BOTH);
+        tableData.heightHint = _previewTable.getItemHeight() * 8;
+        _previewTable.setLayoutData(tableData);
+        
+        createPreviewColumn(Messages.PreviewArchiveColumn, SWT.LEFT, 200);
+        createPreviewColumn(Messages.PreviewSourceColumn, SWT.LEFT, 200);
+        createPreviewColumn(Messages.PreviewSizeColumn, SWT.RIGHT, 80);
+
+        _previewSummary = new Label(previewGroup, SWT.NONE);
+        _previewSummary.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
+    }
+    
+    /**
+     * Adds a column to the preview table
+     * 
+     * @param text the column header
+     * @param style the column alignment
+     * @param width the initial column width
+     */
+    private void createPreviewColumn(String text, int style, int width) {
+        TableColumn column = new TableColumn(_previewTable, style);
+        column.setText(text);
+        column.setWidth(width);
+    }
+    
+    /**
+     * Cancels any pending or running preview and, if the current directory and 
+     * extensions are valid, schedules a new one after PREVIEW_DELAY so that 
+     * successive keystrokes only trigger one scan.
+     */
+    private void schedulePreview() {
+        if(_previewJob != null) {
+            _previewJob.cancel();
+            _previewJob = null;
+        }
+        if(_previewTable == null || _previewTable.isDisposed()) {
+            return;
+        }
+        if(!areExtsValid(getExtValue()) || !isDirValid(getDirValue())) {
+            _previewTable.removeAll();
+            _previewSummary.setText(Messages.PreviewNone);
+            return;
+        }
+        // build the same container that finish() would configure
+        SimpleDirContainer container = new SimpleDirContainer(getSelection().getPath(), _proj);
+        _previewJob = new PreviewJob(container, _previewTable.getDisplay());
+        _previewJob.schedule(PREVIEW_DELAY);
+    }
+    
+    /**
+     * Replaces the contents of the preview table with the results of a preview job.  
+     * Results from a job that has since been superseded are ignored.
+     * 
+     * @param job the job that produced the results
+     * @param rows archive name, source attachment name, and size for each archive
+     * @param summary text for the summary label
+     */
+    private void showPreview(PreviewJob job, String[][] rows, String summary) {
+        if(job != _previewJob || _previewTable.isDisposed()) {
+            return;
+        }
+        _previewTable.removeAll();
+        for(String[] row : rows) {
+            new TableItem(_previewTable, SWT.NONE).setText(row);
+        }
+        _previewSummary.setText(summary);
+    }
+    
+    /**
+     * @param bytes a file size in bytes
+     * @return the size in kilobytes, rounded up
+     */
+    private static long toKB(long bytes) {
+        return (bytes + 1023) / 1024;
+    }
+    
     /**
      * Creates a directory dialog 
      */
@@ -246,4 +371,68 @@ public class SimpleDirContainerPage extends WizardPage
             _initPath = containerEntry.getPath();
         }        
     }    
+    
+    /* (non-Javadoc)
+     * @see org.eclipse.jface.dialogs.IDialogPage#dispose()
+     */
+    public void dispose() {
+        if(_previewJob != null) {
+            _previewJob.cancel();
+            _previewJob = null;
+        }
+        super.dispose();
+    }
+    
+    /**
+     * This job scans the directory of a SimpleDirContainer off the UI thread and hands 
+     * the matched archives, their source attachments and sizes back to the page.
+     */
+    private class PreviewJob extends Job {
+        private SimpleDirContainer _container;
+        private Display _display;
+        
+        public PreviewJob(SimpleDirContainer container, Display display) {
+            super(Messages.PreviewJob);
+            _container = container;
+            _display = display;
+            setSystem(true);
+        }
+        
+        /* (non-Javadoc)
+         * @see org.eclipse.core.runtime.jobs.Job#run(org.eclipse.core.runtime.IProgressMonitor)
+         */
+        protected IStatus run(IProgressMonitor monitor) {
+            File[] libs = _container.getArchives();
+            Arrays.sort(libs);
+            monitor.beginTask(getName(), libs.length);
+            
+            final String[][] rows = new String[libs.length][];
+            long total = 0;
+            for(int i = 0; i < libs.length; i++) {
+                if(monitor.isCanceled()) {
+                    return Status.CANCEL_STATUS;
+                }
+                File srcArc = _container.getSourceArchive(libs[i]);
+                long size = libs[i].length();
+                total += size;
+                rows[i] = new String[] { libs[i].getName(), 
+                        srcArc == null ? "" : srcArc.getName(), 
+                        Long.toString(toKB(size)) };
+                monitor.worked(1);
+            }
+            monitor.done();
+            
+            final String summary = NLS.bind(Messages.PreviewSummary, 
+                    Integer.toString(libs.length), Long.toString(toKB(total)));
+            if(monitor.isCanceled() || _display.isDisposed()) {
+                return Status.CANCEL_STATUS;
+            }
+            _display.asyncExec(new Runnable() {
+                public void run() {
+                    showPreview(PreviewJob.this, rows, summary);
+                }
+            });
+            return Status.OK_STATUS;
+        }
+    }
 }